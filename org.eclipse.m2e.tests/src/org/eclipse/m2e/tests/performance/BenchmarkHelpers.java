@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.tests.common.HttxWagon;
+import org.eclipse.m2e.tests.common.WorkspaceHelpers;
+
+
+/**
+ * Workspace generation, measurement and JSON reporting shared by the benchmarks in this package.
+ */
+final class BenchmarkHelpers {
+
+  private static final Method TOTAL_ALLOCATED_BYTES = getAllocatedBytesMethod("getTotalThreadAllocatedBytes");
+
+  private static final Method THREAD_ALLOCATED_BYTES = getAllocatedBytesMethod("getThreadAllocatedBytes", long[].class);
+
+  private BenchmarkHelpers() {
+  }
+
+  interface Operation {
+    void run() throws Exception;
+  }
+
+  /**
+   * One measured run. {@code allocatedBytes} counts the allocations of all threads of the process while the operation
+   * ran, so resolver, job and other worker threads are included, as is unrelated background activity. It is
+   * {@code -1} when the JVM does not provide allocation counters.
+   */
+  record Sample(long nanos, long allocatedBytes, long peakHeapBytes) {
+    String toJson() {
+      double seconds = nanos / 1_000_000_000d;
+      long allocationRate = allocatedBytes >= 0 && seconds > 0 ? (long) (allocatedBytes / seconds) : -1;
+      return "{\"millis\": " + nanos / 1_000_000 + ", \"allocatedBytes\": " + allocatedBytes
+          + ", \"allocationRateBytesPerSecond\": " + allocationRate + ", \"peakHeapBytes\": " + peakHeapBytes + "}";
+    }
+  }
+
+  static List<Sample> measure(int count, Operation operation) throws Exception {
+    List<Sample> samples = new ArrayList<>();
+    for(int i = 0; i < count; i++ ) {
+      samples.add(measure(operation));
+    }
+    return samples;
+  }
+
+  static Sample measure(Operation operation) throws Exception {
+    System.gc();
+    List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if(pool.getType() == MemoryType.HEAP && pool.isValid()) {
+        pool.resetPeakUsage();
+        heapPools.add(pool);
+      }
+    }
+    long allocated = getAllocatedBytes();
+    long start = System.nanoTime();
+
+    operation.run();
+
+    long nanos = System.nanoTime() - start;
+    if(allocated >= 0) {
+      allocated = getAllocatedBytes() - allocated;
+    }
+    long peakHeap = 0;
+    for(MemoryPoolMXBean pool : heapPools) {
+      peakHeap += pool.getPeakUsage().getUsed();
+    }
+    return new Sample(nanos, allocated, peakHeap);
+  }
+
+  /**
+   * Installs a jar artifact and its pom into the given repository layout. The jar is empty, resolution only
+   * needs the file to exist.
+   */
+  static void installArtifact(File repository, String groupId, String artifactId, String version, String classifier)
+      throws IOException {
+    File dir = new File(repository, groupId.replace('.', '/') + "/" + artifactId + "/" + version);
+    dir.mkdirs();
+    String basename = artifactId + "-" + version;
+    File pom = new File(dir, basename + ".pom");
+    if(!pom.exists()) {
+      write(pom, "<project>\n" //
+          + "  <modelVersion>4.0.0</modelVersion>\n" //
+          + "  <groupId>" + groupId + "</groupId>\n" //
+          + "  <artifactId>" + artifactId + "</artifactId>\n" //
+          + "  <version>" + version + "</version>\n" //
+          + "</project>\n");
+    }
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+    File jar = new File(dir, basename + (classifier != null ? "-" + classifier : "") + ".jar");
+    try (OutputStream os = Files.newOutputStream(jar.toPath());
+        JarOutputStream jos = new JarOutputStream(os, manifest)) {
+      // no entries
+    }
+  }
+
+  /**
+   * Writes a settings file that resolves against the given local repository and the generated file-based repository
+   * only. Every other repository is mirrored to an {@code httx:} url, so {@link #assertNoRemoteLookups()} can check
+   * that nothing was looked up remotely. The mirror keeps the id {@code central}, which leaves build plugins the test
+   * suite cached from central usable from the local repository.
+   */
+  static File writeSettings(File settings, File localRepository, File repository) throws IOException {
+    StringBuilder xml = new StringBuilder();
+    xml.append("<settings>\n");
+    xml.append("  <localRepository>").append(localRepository.getAbsolutePath()).append("</localRepository>\n");
+    xml.append("  <mirrors>\n");
+    xml.append("    <mirror>\n");
+    xml.append("      <id>central</id>\n");
+    xml.append("      <mirrorOf>*,!benchmark</mirrorOf>\n");
+    xml.append("      <url>httx://repo1.maven.org/maven2</url>\n");
+    xml.append("    </mirror>\n");
+    xml.append("  </mirrors>\n");
+    xml.append("  <profiles>\n");
+    xml.append("    <profile>\n");
+    xml.append("      <id>benchmark</id>\n");
+    xml.append("      <repositories>\n");
+    xml.append("        <repository>\n");
+    xml.append("          <id>benchmark</id>\n");
+    xml.append("          <url>").append(repository.toURI()).append("</url>\n");
+    xml.append("          <snapshots><enabled>true</enabled></snapshots>\n");
+    xml.append("          <releases><enabled>true</enabled></releases>\n");
+    xml.append("        </repository>\n");
+    xml.append("      </repositories>\n");
+    xml.append("    </profile>\n");
+    xml.append("  </profiles>\n");
+    xml.append("  <activeProfiles>\n");
+    xml.append("    <activeProfile>benchmark</activeProfile>\n");
+    xml.append("  </activeProfiles>\n");
+    xml.append("</settings>\n");
+    write(settings, xml.toString());
+    return settings;
+  }
+
+  /**
+   * Fails if a remote repository was requested since recording was last reset with
+   * {@link HttxWagon#setRequestFilterPattern(String, boolean)}, i.e. if a benchmark using
+   * {@link #writeSettings(File, File, File)} timed network lookups.
+   */
+  static void assertNoRemoteLookups() {
+    List<String> requests = HttxWagon.getRequests();
+    assertTrue("Remote repository lookups: " + requests, requests.isEmpty());
+  }
+
+  /**
+   * Fails if the project has POM loading or lifecycle mapping errors, i.e. if a benchmark would time an error path
+   * instead of a successful resolution.
+   */
+  static void assertNoMavenErrors(IProject project) throws CoreException {
+    List<IMarker> errors = new ArrayList<>();
+    for(String type : List.of(IMavenConstants.MARKER_POM_LOADING_ID, IMavenConstants.MARKER_LIFECYCLEMAPPING_ID)) {
+      for(IMarker marker : project.findMarkers(type, true, IResource.DEPTH_INFINITE)) {
+        if(marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) {
+          errors.add(marker);
+        }
+      }
+    }
+    assertTrue(project.getName() + ": " + WorkspaceHelpers.toString(errors), errors.isEmpty());
+  }
+
+  /**
+   * Writes {@code pom.xml} and a {@code .project} with the Maven nature into a new project directory.
+   */
+  static File writeProject(File parent, String name, String pom) throws IOException {
+    File dir = new File(parent, name);
+    dir.mkdirs();
+    write(new File(dir, "pom.xml"), pom);
+    StringBuilder description = new StringBuilder();
+    description.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    description.append("<projectDescription>\n");
+    description.append("  <name>").append(name).append("</name>\n");
+    description.append("  <natures>\n");
+    description.append("    <nature>").append(IMavenConstants.NATURE_ID).append("</nature>\n");
+    description.append("  </natures>\n");
+    description.append("</projectDescription>\n");
+    write(new File(dir, ".project"), description.toString());
+    return dir;
+  }
+
+  static void write(File file, String content) throws IOException {
+    file.getParentFile().mkdirs();
+    Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return one JSON object with the given scalar properties followed by an {@code operations} object mapping each
+   *         operation name to its samples, indented to sit inside the {@code results} array
+   */
+  static String toJson(Map<String, Object> properties, Map<String, List<Sample>> samples) {
+    StringBuilder json = new StringBuilder();
+    json.append("    {\n");
+    for(Map.Entry<String, Object> property : properties.entrySet()) {
+      json.append("      \"").append(property.getKey()).append("\": ").append(jsonValue(property.getValue()))
+          .append(",\n");
+    }
+    json.append("      \"operations\": {\n");
+    int index = 0;
+    for(Map.Entry<String, List<Sample>> entry : samples.entrySet()) {
+      json.append("        \"").append(entry.getKey()).append("\": [");
+      for(int i = 0; i < entry.getValue().size(); i++ ) {
+        json.append(i > 0 ? ", " : "").append(entry.getValue().get(i).toJson());
+      }
+      json.append(++index < samples.size() ? "],\n" : "]\n");
+    }
+    json.append("      }\n");
+    json.append("    }");
+    return json.toString();
+  }
+
+  /**
+   * Writes the report file: environment information, the benchmark parameters and the per-run results produced by
+   * {@link #toJson(Map, Map)}.
+   */
+  static void writeReport(File output, Map<String, Object> parameters, List<String> results) throws IOException {
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"timestamp\": ").append(jsonValue(Instant.now().toString())).append(",\n");
+    json.append("  \"javaVersion\": ").append(jsonValue(System.getProperty("java.version"))).append(",\n");
+    json.append("  \"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+    json.append("  \"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory()).append(",\n");
+    for(Map.Entry<String, Object> parameter : parameters.entrySet()) {
+      json.append("  \"").append(parameter.getKey()).append("\": ").append(jsonValue(parameter.getValue()))
+          .append(",\n");
+    }
+    json.append("  \"results\": [\n");
+    json.append(String.join(",\n", results)).append("\n");
+    json.append("  ]\n");
+    json.append("}\n");
+    write(output, json.toString());
+  }
+
+  /**
+   * @return numbers, booleans and {@code null} as they are, anything else as a quoted and escaped JSON string
+   */
+  static String jsonValue(Object value) {
+    if(value == null || value instanceof Number || value instanceof Boolean) {
+      return String.valueOf(value);
+    }
+    StringBuilder json = new StringBuilder("\"");
+    for(char c : value.toString().toCharArray()) {
+      switch(c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if(c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    return json.append('"').toString();
+  }
+
+  /**
+   * Allocation counters are a HotSpot extension of {@link java.lang.management.ThreadMXBean}, looked up reflectively
+   * because {@code com.sun.management} is not necessarily visible to this bundle.
+   */
+  private static Method getAllocatedBytesMethod(String name, Class<?>... parameterTypes) {
+    try {
+      Method method = ClassLoader.getPlatformClassLoader().loadClass("com.sun.management.ThreadMXBean")
+          .getMethod(name, parameterTypes);
+      Object[] probe = parameterTypes.length > 0 ? new Object[] {new long[0]} : new Object[0];
+      method.invoke(ManagementFactory.getThreadMXBean(), probe);
+      return method;
+    } catch(ReflectiveOperationException | RuntimeException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * @return bytes allocated by all threads of the process, or {@code -1} if not available. Without
+   *         {@code getTotalThreadAllocatedBytes} the live threads are summed up, which misses threads that terminated
+   *         in the meantime.
+   */
+  private static long getAllocatedBytes() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    try {
+      if(TOTAL_ALLOCATED_BYTES != null) {
+        long allocated = (Long) TOTAL_ALLOCATED_BYTES.invoke(threads);
+        if(allocated >= 0) {
+          return allocated;
+        }
+      }
+      if(THREAD_ALLOCATED_BYTES != null) {
+        long allocated = 0;
+        for(long bytes : (long[]) THREAD_ALLOCATED_BYTES.invoke(threads, threads.getAllThreadIds())) {
+          if(bytes > 0) {
+            allocated += bytes;
+          }
+        }
+        return allocated;
+      }
+    } catch(ReflectiveOperationException ex) {
+      // fall through
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.performance;
+
+import static org.junit.Assert.assertTrue;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.assertNoRemoteLookups;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.installArtifact;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.measure;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.write;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.writeSettings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+
+import org.codehaus.plexus.util.FileUtils;
+
+import org.eclipse.m2e.jdt.internal.launch.MavenRuntimeClasspathProvider;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.common.HttxWagon;
+import org.eclipse.m2e.tests.common.WorkspaceHelpers;
+import org.eclipse.m2e.tests.performance.BenchmarkHelpers.Sample;
+
+
+/**
+ * Benchmark for {@link MavenRuntimeClasspathProvider} on projects with a large number of dependencies. Generates a
+ * project whose dependencies, served from a generated file-based repository, cycle through compile, runtime, test,
+ * provided and test-scoped {@code tests} classifier artifacts, plus one system scoped jar, and measures how long
+ * computing and resolving the runtime and the test classpath takes. Like {@link ProjectRegistryBenchmark}, the project
+ * is imported with generated settings and must not look up anything remotely. Results are written as JSON, see
+ * {@link ProjectRegistryBenchmark} for how the benchmarks are run.
+ * <p>
+ * Configured with the following system properties:
+ * <ul>
+ * <li>{@code m2e.benchmark.classpath.artifacts} - comma separated dependency counts, default {@code 2000}</li>
+ * <li>{@code m2e.benchmark.classpath.iterations} - measured iterations per classpath, default {@code 5}</li>
+ * <li>{@code m2e.benchmark.classpath.output} - result file, default {@code target/classpath-benchmark.json}</li>
+ * </ul>
+ */
+public class ClasspathProviderBenchmark extends AbstractMavenProjectTestCase {
+
+  private static final String GROUP_ID = "org.eclipse.m2e.benchmark.classpath";
+
+  private static final String VERSION = "1.0";
+
+  private static final String[] SCOPES = {"compile", "runtime", "test", "provided", "test"};
+
+  private final int iterations = Math.max(1, Integer.getInteger("m2e.benchmark.classpath.iterations", 5));
+
+  @Test
+  public void testClasspathThroughput() throws Exception {
+    List<String> results = new ArrayList<>();
+    for(String size : System.getProperty("m2e.benchmark.classpath.artifacts", "2000").split(",")) {
+      results.add(benchmark(Integer.parseInt(size.trim())));
+    }
+
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("iterations", iterations);
+    File output = new File(System.getProperty("m2e.benchmark.classpath.output", "target/classpath-benchmark.json"));
+    BenchmarkHelpers.writeReport(output, parameters, results);
+  }
+
+  private String benchmark(int artifacts) throws Exception {
+    File basedir = new File("target/classpath-benchmark/" + artifacts).getCanonicalFile();
+    FileUtils.deleteDirectory(basedir);
+    File repository = new File(basedir, "repository");
+    File projectDir = new File(basedir, "project");
+
+    FileUtils.deleteDirectory(new File(repo, GROUP_ID.replace('.', '/')));
+
+    generateProject(projectDir, repository, artifacts);
+
+    String oldSettings = mavenConfiguration.getUserSettingsFile();
+    File settings = writeSettings(new File(basedir, "settings.xml"), repo, repository);
+    mavenConfiguration.setUserSettingsFile(settings.getAbsolutePath());
+    waitForJobsToComplete();
+    injectRedirectingWagons();
+    try {
+      HttxWagon.setRequestFilterPattern(".*", true);
+      IProject project = importProject(new File(projectDir, "pom.xml").getPath());
+      waitForJobsToComplete();
+      assertNoRemoteLookups();
+      WorkspaceHelpers.assertNoErrors(project);
+      return measureClasspaths(project, artifacts);
+    } finally {
+      mavenConfiguration.setUserSettingsFile(oldSettings);
+    }
+  }
+
+  private String measureClasspaths(IProject project, int artifacts) throws Exception {
+    ILaunchConfiguration runtime = newLaunchConfiguration(project, "bench.App", true);
+    ILaunchConfiguration test = newLaunchConfiguration(project, "bench.AppTest", false);
+
+    MavenRuntimeClasspathProvider classpathProvider = new MavenRuntimeClasspathProvider();
+    int runtimeEntries = resolve(classpathProvider, runtime).length;
+    int testEntries = resolve(classpathProvider, test).length;
+    assertTrue("runtime " + runtimeEntries + ", test " + testEntries, runtimeEntries < testEntries);
+
+    Map<String, List<Sample>> samples = new LinkedHashMap<>();
+    samples.put("runtime", measure(iterations, () -> resolve(classpathProvider, runtime)));
+    samples.put("test", measure(iterations, () -> resolve(classpathProvider, test)));
+
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("artifacts", artifacts);
+    properties.put("runtimeEntries", runtimeEntries);
+    properties.put("testEntries", testEntries);
+
+    project.delete(true, true, monitor);
+    waitForJobsToComplete();
+
+    return BenchmarkHelpers.toJson(properties, samples);
+  }
+
+  private static IRuntimeClasspathEntry[] resolve(MavenRuntimeClasspathProvider classpathProvider,
+      ILaunchConfiguration configuration) throws Exception {
+    IRuntimeClasspathEntry[] unresolvedClasspath = classpathProvider.computeUnresolvedClasspath(configuration);
+    return classpathProvider.resolveClasspath(unresolvedClasspath, configuration);
+  }
+
+  /**
+   * For Java application launches the provider picks the classpath scope from
+   * {@link IJavaLaunchConfigurationConstants#ATTR_EXCLUDE_TEST_CODE}: excluding test code gives the runtime classpath,
+   * otherwise the test classpath is used.
+   */
+  private static ILaunchConfiguration newLaunchConfiguration(IProject project, String mainType,
+      boolean excludeTestCode) throws Exception {
+    ILaunchConfigurationWorkingCopy workingCopy = DebugPlugin.getDefault().getLaunchManager()
+        .getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION)
+        .newInstance(null, mainType);
+    workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, project.getName());
+    workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_MAIN_TYPE_NAME, mainType);
+    workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_CLASSPATH_PROVIDER,
+        MavenRuntimeClasspathProvider.MAVEN_CLASSPATH_PROVIDER);
+    workingCopy.setAttribute(IJavaLaunchConfigurationConstants.ATTR_EXCLUDE_TEST_CODE, excludeTestCode);
+    return workingCopy;
+  }
+
+  private static void generateProject(File projectDir, File repository, int artifacts) throws IOException {
+    StringBuilder pom = new StringBuilder();
+    pom.append("<project>\n");
+    pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+    pom.append("  <groupId>").append(GROUP_ID).append("</groupId>\n");
+    pom.append("  <artifactId>classpath-benchmark</artifactId>\n");
+    pom.append("  <version>").append(VERSION).append("</version>\n");
+    pom.append("  <dependencies>\n");
+    for(int i = 0; i < artifacts; i++ ) {
+      String artifactId = String.format("dep-%05d", i);
+      String classifier = i % SCOPES.length == SCOPES.length - 1 ? "tests" : null;
+      installArtifact(repository, GROUP_ID, artifactId, VERSION, classifier);
+      pom.append("    <dependency>\n");
+      pom.append("      <groupId>").append(GROUP_ID).append("</groupId>\n");
+      pom.append("      <artifactId>").append(artifactId).append("</artifactId>\n");
+      pom.append("      <version>").append(VERSION).append("</version>\n");
+      if(classifier != null) {
+        pom.append("      <classifier>").append(classifier).append("</classifier>\n");
+      }
+      pom.append("      <scope>").append(SCOPES[i % SCOPES.length]).append("</scope>\n");
+      pom.append("    </dependency>\n");
+    }
+    installArtifact(new File(projectDir, "lib"), GROUP_ID, "system", VERSION, null);
+    pom.append("    <dependency>\n");
+    pom.append("      <groupId>").append(GROUP_ID).append("</groupId>\n");
+    pom.append("      <artifactId>system</artifactId>\n");
+    pom.append("      <version>").append(VERSION).append("</version>\n");
+    pom.append("      <scope>system</scope>\n");
+    pom.append("      <systemPath>${project.basedir}/lib/")
+        .append(GROUP_ID.replace('.', '/'))
+        .append("/system/")
+        .append(VERSION)
+        .append("/system-")
+        .append(VERSION)
+        .append(".jar</systemPath>\n");
+    pom.append("    </dependency>\n");
+    pom.append("  </dependencies>\n");
+    pom.append("</project>\n");
+    write(new File(projectDir, "pom.xml"), pom.toString());
+
+    write(new File(projectDir, "src/main/java/bench/App.java"), "package bench;\n\n" //
+        + "public class App {\n" //
+        + "  public static void main(String[] args) {\n" //
+        + "  }\n" //
+        + "}\n");
+    write(new File(projectDir, "src/test/java/bench/AppTest.java"), "package bench;\n\n" //
+        + "public class AppTest {\n" //
+        + "  public static void main(String[] args) {\n" //
+        + "  }\n" //
+        + "}\n");
+  }
+}
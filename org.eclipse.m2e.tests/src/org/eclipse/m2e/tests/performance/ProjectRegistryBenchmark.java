@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.assertNoMavenErrors;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.assertNoRemoteLookups;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.installArtifact;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.measure;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.writeProject;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.writeSettings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.codehaus.plexus.util.FileUtils;
+
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.project.registry.MavenProjectFacade;
+import org.eclipse.m2e.core.internal.project.registry.MutableProjectRegistry;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistry;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryReader;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.common.HttxWagon;
+import org.eclipse.m2e.tests.performance.BenchmarkHelpers.Sample;
+
+
+/**
+ * Throughput benchmark for project registry operations. Generates synthetic multi-module workspaces whose library
+ * dependencies come from a generated file-based repository and measures {@link ProjectRegistryManager#refresh},
+ * {@link ProjectRegistry#apply} and {@link ProjectRegistryReader} write/read time, process-wide allocated bytes and
+ * peak heap. Maven runs with generated settings that only know the test suite's local repository and the file-based
+ * repository, and the benchmark fails if the measured refreshes look up anything remotely. Results are written as JSON
+ * so they can be compared between builds.
+ * <p>
+ * The class name deliberately does not match the surefire test includes, so the benchmark only runs when requested
+ * explicitly, e.g. {@code -Dtest=ProjectRegistryBenchmark}. It is configured with the following system properties:
+ * <ul>
+ * <li>{@code m2e.benchmark.registry.sizes} - comma separated module counts, default {@code 100,1000,5000}</li>
+ * <li>{@code m2e.benchmark.registry.depth} - length of the parent pom chain, default {@code 3}</li>
+ * <li>{@code m2e.benchmark.registry.fanout} - maximum inter-module dependencies per module, default {@code 4}</li>
+ * <li>{@code m2e.benchmark.registry.libraries} - number of artifacts in the file-based repository, default
+ * {@code 20}</li>
+ * <li>{@code m2e.benchmark.registry.iterations} - measured iterations per operation, default {@code 3}</li>
+ * <li>{@code m2e.benchmark.registry.output} - result file, default {@code target/registry-benchmark.json}</li>
+ * </ul>
+ */
+public class ProjectRegistryBenchmark extends AbstractMavenProjectTestCase {
+
+  private static final String WORKSPACE_STATE_SER = "workspaceState.ser";
+
+  private static final String GROUP_ID = "org.eclipse.m2e.benchmark";
+
+  private static final String LIBRARY_GROUP_ID = GROUP_ID + ".lib";
+
+  private static final String VERSION = "1.0.0-SNAPSHOT";
+
+  private static final String LIBRARY_VERSION = "1.0";
+
+  private final int depth = Math.max(1, Integer.getInteger("m2e.benchmark.registry.depth", 3));
+
+  private final int fanout = Math.max(0, Integer.getInteger("m2e.benchmark.registry.fanout", 4));
+
+  private final int libraries = Math.max(1, Integer.getInteger("m2e.benchmark.registry.libraries", 20));
+
+  private final int iterations = Math.max(1, Integer.getInteger("m2e.benchmark.registry.iterations", 3));
+
+  @Test
+  public void testRegistryThroughput() throws Exception {
+    List<String> results = new ArrayList<>();
+    for(String size : System.getProperty("m2e.benchmark.registry.sizes", "100,1000,5000").split(",")) {
+      results.add(benchmark(Integer.parseInt(size.trim())));
+    }
+
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("depth", depth);
+    parameters.put("fanout", fanout);
+    parameters.put("libraries", libraries);
+    parameters.put("iterations", iterations);
+    File output = new File(System.getProperty("m2e.benchmark.registry.output", "target/registry-benchmark.json"));
+    BenchmarkHelpers.writeReport(output, parameters, results);
+  }
+
+  private String benchmark(int modules) throws Exception {
+    File basedir = new File("target/registry-benchmark/" + modules).getCanonicalFile();
+    FileUtils.deleteDirectory(basedir);
+    File repository = new File(basedir, "repository");
+    File workspaceDir = new File(basedir, "modules");
+    File stateDir = new File(basedir, "state");
+    stateDir.mkdirs();
+
+    // libraries cached by a previous run would turn the cold refresh into a local repository lookup
+    FileUtils.deleteDirectory(new File(repo, GROUP_ID.replace('.', '/')));
+
+    generateRepository(repository);
+    List<String> names = generateWorkspace(workspaceDir, modules);
+
+    Map<String, List<Sample>> samples = new LinkedHashMap<>();
+    long stateBytes;
+
+    String oldSettings = mavenConfiguration.getUserSettingsFile();
+    File settings = writeSettings(new File(basedir, "settings.xml"), repo, repository);
+    mavenConfiguration.setUserSettingsFile(settings.getAbsolutePath());
+    waitForJobsToComplete();
+    injectRedirectingWagons();
+
+    ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    IProject[] projects = new IProject[names.size()];
+    boolean oldSuspended = Job.getJobManager().isSuspended();
+    Job.getJobManager().suspend();
+    try {
+      for(int i = 0; i < projects.length; i++ ) {
+        projects[i] = createExisting(names.get(i), new File(workspaceDir, names.get(i)).getAbsolutePath());
+      }
+      Set<IFile> pomFiles = getPomFiles(projects);
+
+      // resolve build plugins and check the generated poms on the parents and the first module, which only
+      // depends on a library, so that neither plugin downloads nor error paths end up in the measurements
+      IProject[] sample = Arrays.copyOf(projects, depth + 1);
+      manager.refresh(getPomFiles(sample), monitor);
+      for(IProject project : sample) {
+        assertNoMavenErrors(project);
+      }
+
+      HttxWagon.setRequestFilterPattern(".*", true);
+      samples.put("refresh.cold", List.of(measure(() -> manager.refresh(pomFiles, monitor))));
+      for(int i = 0; i < projects.length; i += Math.max(1, projects.length / 10)) {
+        assertNoMavenErrors(projects[i]);
+      }
+      // refresh rebuilds every model it is given, unchanged poms are not short-circuited
+      samples.put("refresh.repeat", measure(iterations, () -> manager.refresh(pomFiles, monitor)));
+      assertNoRemoteLookups();
+
+      MavenProjectFacade[] facades = manager.getProjects();
+      assertEquals(projects.length, facades.length);
+
+      List<Sample> apply = new ArrayList<>();
+      ProjectRegistry state = null;
+      for(int i = 0; i < iterations; i++ ) {
+        state = new ProjectRegistry();
+        MutableProjectRegistry delta = new MutableProjectRegistry(state);
+        for(MavenProjectFacade facade : facades) {
+          delta.setProject(facade.getPom(), facade);
+        }
+        ProjectRegistry target = state;
+        apply.add(measure(() -> target.apply(delta)));
+      }
+      samples.put("registry.apply", apply);
+
+      ProjectRegistryReader reader = new ProjectRegistryReader();
+      reader.setStateLocation(stateDir);
+      ProjectRegistry written = state;
+      samples.put("reader.write", measure(iterations, () -> reader.writeWorkspaceState(written)));
+      stateBytes = new File(stateDir, WORKSPACE_STATE_SER).length();
+      samples.put("reader.read", measure(iterations, () -> reader.readWorkspaceState(null)));
+
+      for(IProject project : projects) {
+        project.delete(true, true, monitor);
+      }
+    } finally {
+      if(!oldSuspended) {
+        Job.getJobManager().resume();
+      }
+      mavenConfiguration.setUserSettingsFile(oldSettings);
+    }
+    waitForJobsToComplete();
+
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("modules", modules);
+    properties.put("projects", projects.length);
+    properties.put("workspaceStateBytes", stateBytes);
+    return BenchmarkHelpers.toJson(properties, samples);
+  }
+
+  /**
+   * Installs {@code libraries} jar artifacts with their poms into the given repository.
+   */
+  private void generateRepository(File repository) throws IOException {
+    for(int i = 0; i < libraries; i++ ) {
+      installArtifact(repository, LIBRARY_GROUP_ID, "lib-" + i, LIBRARY_VERSION, null);
+    }
+  }
+
+  /**
+   * Generates a flat directory of projects: a chain of {@code depth} parent poms, the first one managing library
+   * versions, and {@code modules} jar modules inheriting from the last parent. Every module depends on one library and
+   * on up to {@code fanout} modules generated before it, which keeps the dependency graph acyclic.
+   *
+   * @return project names, parents first
+   */
+  private List<String> generateWorkspace(File workspaceDir, int modules) throws IOException {
+    List<String> names = new ArrayList<>();
+
+    for(int i = 0; i < depth; i++ ) {
+      String artifactId = "parent-" + i;
+      StringBuilder pom = new StringBuilder();
+      pom.append("<project>\n");
+      pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+      if(i > 0) {
+        appendParent(pom, "parent-" + (i - 1));
+      }
+      pom.append("  <groupId>").append(GROUP_ID).append("</groupId>\n");
+      pom.append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+      pom.append("  <version>").append(VERSION).append("</version>\n");
+      pom.append("  <packaging>pom</packaging>\n");
+      if(i == 0) {
+        pom.append("  <dependencyManagement>\n");
+        pom.append("    <dependencies>\n");
+        for(int l = 0; l < libraries; l++ ) {
+          pom.append("      <dependency>\n");
+          appendCoordinates(pom, "        ", LIBRARY_GROUP_ID, "lib-" + l, LIBRARY_VERSION);
+          pom.append("      </dependency>\n");
+        }
+        pom.append("    </dependencies>\n");
+        pom.append("  </dependencyManagement>\n");
+      }
+      pom.append("</project>\n");
+      writeProject(workspaceDir, artifactId, pom.toString());
+      names.add(artifactId);
+    }
+
+    Random random = new Random(modules);
+    for(int i = 0; i < modules; i++ ) {
+      String artifactId = moduleName(i);
+      StringBuilder pom = new StringBuilder();
+      pom.append("<project>\n");
+      pom.append("  <modelVersion>4.0.0</modelVersion>\n");
+      appendParent(pom, "parent-" + (depth - 1));
+      pom.append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+      pom.append("  <dependencies>\n");
+      pom.append("    <dependency>\n");
+      appendCoordinates(pom, "      ", LIBRARY_GROUP_ID, "lib-" + (i % libraries), null);
+      pom.append("    </dependency>\n");
+      Set<Integer> dependencies = new LinkedHashSet<>();
+      for(int d = 0; d < Math.min(fanout, i); d++ ) {
+        dependencies.add(random.nextInt(i));
+      }
+      for(int dependency : dependencies) {
+        pom.append("    <dependency>\n");
+        appendCoordinates(pom, "      ", GROUP_ID, moduleName(dependency), VERSION);
+        pom.append("    </dependency>\n");
+      }
+      pom.append("  </dependencies>\n");
+      pom.append("</project>\n");
+      writeProject(workspaceDir, artifactId, pom.toString());
+      names.add(artifactId);
+    }
+
+    return names;
+  }
+
+  private static String moduleName(int index) {
+    return String.format("module-%05d", index);
+  }
+
+  private static void appendParent(StringBuilder pom, String artifactId) {
+    pom.append("  <parent>\n");
+    appendCoordinates(pom, "    ", GROUP_ID, artifactId, VERSION);
+    pom.append("    <relativePath>../").append(artifactId).append("/pom.xml</relativePath>\n");
+    pom.append("  </parent>\n");
+  }
+
+  private static void appendCoordinates(StringBuilder pom, String indent, String groupId, String artifactId,
+      String version) {
+    pom.append(indent).append("<groupId>").append(groupId).append("</groupId>\n");
+    pom.append(indent).append("<artifactId>").append(artifactId).append("</artifactId>\n");
+    if(version != null) {
+      pom.append(indent).append("<version>").append(version).append("</version>\n");
+    }
+  }
+}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.assertNoMavenErrors;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.measure;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.write;
+import static org.eclipse.m2e.tests.performance.BenchmarkHelpers.writeProject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.codehaus.plexus.util.FileUtils;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.project.registry.MavenProjectFacade;
+import org.eclipse.m2e.core.internal.project.registry.MutableProjectRegistry;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistry;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.performance.BenchmarkHelpers.Sample;
+
+
+/**
+ * Benchmark for workspace artifact lookups, the queries behind workspace dependency resolution. Builds a registry of
+ * synthetic facades, cloned from one real {@link MavenProject} with distinct coordinates, and measures the registry's
+ * exact GAV lookup {@link ProjectRegistry#getProjectFacade(String, String, String)} and version range matching over
+ * {@link ProjectRegistry#getWorkspaceArtifacts(String, String)} for every groupId/artifactId. Candidate versions are
+ * parsed once up front, so range matching only times the lookup and {@link VersionRange#containsVersion}. The range
+ * excludes the lowest and the highest version of every groupId/artifactId.
+ * {@link ProjectRegistryManager#getWorkspaceLocalRepository()} only sees projects known to the workspace, so its
+ * {@code find(Artifact)} is measured on a separate, smaller set of generated pom projects. Results are written as JSON,
+ * see {@link ProjectRegistryBenchmark} for how the benchmarks are run.
+ * <p>
+ * Configured with the following system properties:
+ * <ul>
+ * <li>{@code m2e.benchmark.lookup.facades} - number of synthetic facades in the registry, default {@code 10000}</li>
+ * <li>{@code m2e.benchmark.lookup.projects} - number of workspace projects for {@code find(Artifact)}, default
+ * {@code 1000}</li>
+ * <li>{@code m2e.benchmark.lookup.versions} - versions per groupId/artifactId, at least {@code 3}, default
+ * {@code 10}</li>
+ * <li>{@code m2e.benchmark.lookup.iterations} - measured iterations per lookup kind, default {@code 5}</li>
+ * <li>{@code m2e.benchmark.lookup.output} - result file, default {@code target/lookup-benchmark.json}</li>
+ * </ul>
+ */
+public class WorkspaceArtifactLookupBenchmark extends AbstractMavenProjectTestCase {
+
+  private static final String GROUP_ID = "org.eclipse.m2e.benchmark.lookup";
+
+  private final int facades = Math.max(1, Integer.getInteger("m2e.benchmark.lookup.facades", 10000));
+
+  private final int projects = Math.max(1, Integer.getInteger("m2e.benchmark.lookup.projects", 1000));
+
+  private final int versions = Integer.getInteger("m2e.benchmark.lookup.versions", 10);
+
+  private final int iterations = Math.max(1, Integer.getInteger("m2e.benchmark.lookup.iterations", 5));
+
+  @Test
+  public void testWorkspaceArtifactLookup() throws Exception {
+    assertTrue("m2e.benchmark.lookup.versions must be at least 3, was " + versions, versions >= 3);
+    File basedir = new File("target/lookup-benchmark").getCanonicalFile();
+    FileUtils.deleteDirectory(basedir);
+
+    List<String> results = new ArrayList<>();
+    results.add(benchmarkRegistry(new File(basedir, "template")));
+    results.add(benchmarkRepository(new File(basedir, "projects")));
+
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("versions", versions);
+    parameters.put("iterations", iterations);
+    File output = new File(System.getProperty("m2e.benchmark.lookup.output", "target/lookup-benchmark.json"));
+    BenchmarkHelpers.writeReport(output, parameters, results);
+  }
+
+  private String benchmarkRegistry(File templateDir) throws Exception {
+    write(new File(templateDir, "pom.xml"), "<project>\n" //
+        + "  <modelVersion>4.0.0</modelVersion>\n" //
+        + "  <groupId>" + GROUP_ID + "</groupId>\n" //
+        + "  <artifactId>template</artifactId>\n" //
+        + "  <version>1.0.0</version>\n" //
+        + "</project>\n");
+    IProject project = createExisting("lookup-benchmark", templateDir.getAbsolutePath());
+    MavenProject template = MavenPlugin.getMaven().readProject(project.getFile("pom.xml").getLocation().toFile(),
+        monitor);
+
+    ProjectRegistry state = new ProjectRegistry();
+    MutableProjectRegistry delta = new MutableProjectRegistry(state);
+    for(int i = 0; i < facades; i++ ) {
+      String artifactId = artifactId(i / versions);
+      String version = version(i % versions);
+      MavenProject mavenProject = template.clone();
+      mavenProject.setGroupId(GROUP_ID);
+      mavenProject.setArtifactId(artifactId);
+      mavenProject.setVersion(version);
+      mavenProject.setArtifact(new DefaultArtifact(GROUP_ID, artifactId, version, null, "jar", null,
+          new DefaultArtifactHandler("jar")));
+      IFile pom = project.getFile("poms/" + artifactId + "-" + version + ".xml");
+      delta.setProject(pom, new MavenProjectFacade(null, pom, mavenProject, null));
+    }
+    Map<String, List<Sample>> samples = new LinkedHashMap<>();
+    samples.put("registry.apply", List.of(measure(() -> state.apply(delta))));
+    assertEquals(facades, state.getProjects().size());
+
+    String[] artifactIds = artifactIds((facades + versions - 1) / versions);
+    String lookupVersion = version(versions - 1);
+    AtomicInteger found = new AtomicInteger();
+    samples.put("lookup.exact", measure(iterations, () -> {
+      found.set(0);
+      for(String artifactId : artifactIds) {
+        if(state.getProjectFacade(GROUP_ID, artifactId, lookupVersion) != null) {
+          found.incrementAndGet();
+        }
+      }
+    }));
+    assertEquals(facades / versions, found.get());
+
+    String rangeSpec = "[" + version(1) + "," + version(versions - 1) + ")";
+    VersionRange range = VersionRange.createFromVersionSpec(rangeSpec);
+    Map<String, ArtifactVersion> parsedVersions = new HashMap<>();
+    int expected = 0;
+    for(int i = 0; i < facades; i++ ) {
+      ArtifactVersion version = parsedVersions.computeIfAbsent(version(i % versions), DefaultArtifactVersion::new);
+      if(range.containsVersion(version)) {
+        expected++;
+      }
+    }
+    assertTrue("range " + rangeSpec + " matches no facade", expected > 0);
+    samples.put("lookup.range", measure(iterations, () -> {
+      found.set(0);
+      for(String artifactId : artifactIds) {
+        for(ArtifactKey key : state.getWorkspaceArtifacts(GROUP_ID, artifactId).keySet()) {
+          if(range.containsVersion(parsedVersions.get(key.version()))) {
+            found.incrementAndGet();
+          }
+        }
+      }
+    }));
+    assertEquals(expected, found.get());
+
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("facades", facades);
+    properties.put("artifacts", artifactIds.length);
+    properties.put("range", rangeSpec);
+    return BenchmarkHelpers.toJson(properties, samples);
+  }
+
+  /**
+   * Imports {@code projects} pom projects, {@code versions} per groupId/artifactId, and looks up every one of them
+   * through the workspace repository, like resolution does for each workspace dependency.
+   */
+  private String benchmarkRepository(File workspaceDir) throws Exception {
+    ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    IProject[] workspaceProjects = new IProject[projects];
+    Artifact[] artifacts = new Artifact[projects];
+    boolean oldSuspended = Job.getJobManager().isSuspended();
+    Job.getJobManager().suspend();
+    try {
+      for(int i = 0; i < projects; i++ ) {
+        String artifactId = artifactId(i / versions);
+        String version = version(i % versions);
+        String name = artifactId + "-" + version;
+        writeProject(workspaceDir, name, "<project>\n" //
+            + "  <modelVersion>4.0.0</modelVersion>\n" //
+            + "  <groupId>" + GROUP_ID + "</groupId>\n" //
+            + "  <artifactId>" + artifactId + "</artifactId>\n" //
+            + "  <version>" + version + "</version>\n" //
+            + "  <packaging>pom</packaging>\n" //
+            + "</project>\n");
+        workspaceProjects[i] = createExisting(name, new File(workspaceDir, name).getAbsolutePath());
+        artifacts[i] = new DefaultArtifact(GROUP_ID, artifactId, version, null, "pom", "", null);
+      }
+      manager.refresh(getPomFiles(workspaceProjects), monitor);
+    } finally {
+      if(!oldSuspended) {
+        Job.getJobManager().resume();
+      }
+    }
+    waitForJobsToComplete();
+    assertNoMavenErrors(workspaceProjects[0]);
+
+    ArtifactRepository repository = manager.getWorkspaceLocalRepository();
+    AtomicInteger found = new AtomicInteger();
+    Map<String, List<Sample>> samples = new LinkedHashMap<>();
+    samples.put("repository.find", measure(iterations, () -> {
+      found.set(0);
+      for(Artifact artifact : artifacts) {
+        // find resolves the given artifact in place, start every lookup from an unresolved one
+        artifact.setResolved(false);
+        artifact.setFile(null);
+        if(repository.find(artifact).isResolved()) {
+          found.incrementAndGet();
+        }
+      }
+    }));
+    assertEquals(projects, found.get());
+
+    for(IProject project : workspaceProjects) {
+      project.delete(true, true, monitor);
+    }
+    waitForJobsToComplete();
+
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("projects", projects);
+    return BenchmarkHelpers.toJson(properties, samples);
+  }
+
+  private static String[] artifactIds(int count) {
+    String[] artifactIds = new String[count];
+    for(int i = 0; i < count; i++ ) {
+      artifactIds[i] = artifactId(i);
+    }
+    return artifactIds;
+  }
+
+  private static String artifactId(int index) {
+    return String.format("artifact-%05d", index);
+  }
+
+  private static String version(int index) {
+    return "1.0." + index;
+  }
+}